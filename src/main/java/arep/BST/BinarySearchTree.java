@@ -1,6 +1,7 @@
 package arep.BST;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * A binary search tree (BST) that implements the List interface. The tree maintains
@@ -25,12 +26,80 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
 
     private Node root;
     private int size;
+    private final boolean selfAdjusting;
+    private final int nodePoolCapacity;
+    private Node pool;
+    private int pooledNodes;
+    private final Node splayHeader = new Node(null);
 
     /**
      * Constructor that initializes an empty binary search tree.
-     */    public BinarySearchTree() {
+     */
+    public BinarySearchTree() {
+        this(false);
+    }
+
+    /**
+     * Constructor that initializes an empty binary search tree, optionally in self-adjusting
+     * (splay) mode. In that mode {@link #search(Comparable)} and {@link #contains(Object)} move
+     * the accessed element (or the last node on its search path) to the root, so recently used
+     * elements are found in few steps. Operations run in amortized O(log n) time. Because lookups
+     * restructure the tree, visitors and {@link #forEach(Consumer)} walk a copy of the elements in
+     * this mode, so a callback may safely search the tree it is visiting.
+     * 
+     * @param selfAdjusting true to splay accessed elements to the root, false for a plain BST
+     */
+    public BinarySearchTree(boolean selfAdjusting) {
+        this(selfAdjusting, 0);
+    }
+
+    /**
+     * Constructor that initializes an empty binary search tree that recycles the nodes of removed
+     * elements. Up to {@code nodePoolCapacity} freed nodes are kept in a free list and reused by later
+     * insertions instead of allocating new ones, which reduces garbage on high-turnover trees.
+     * {@link #clear()} hands the whole node graph to the pool in constant time when it fits.
+     * Nodes retired by {@code clear()} keep a reference to their old element until they are reused;
+     * {@link #releasePool()} drops the pooled nodes so those elements can be garbage collected.
+     * 
+     * @param selfAdjusting true to splay accessed elements to the root, false for a plain BST
+     * @param nodePoolCapacity the maximum number of freed nodes to keep, or 0 to disable pooling
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public BinarySearchTree(boolean selfAdjusting, int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) throw new IllegalArgumentException("Node pool capacity must not be negative");
+        this.selfAdjusting = selfAdjusting;
+        this.nodePoolCapacity = nodePoolCapacity;
         root = null;
         size = 0;
+        pool = null;
+        pooledNodes = 0;
+    }
+
+    /**
+     * Checks if the tree restructures itself on access (splay mode).
+     * 
+     * @return true if the tree is in self-adjusting mode, false otherwise
+     */
+    public boolean isSelfAdjusting() {
+        return selfAdjusting;
+    }
+
+    /**
+     * Returns the number of freed nodes currently held for reuse.
+     * 
+     * @return the number of pooled nodes, always 0 when pooling is disabled
+     */
+    public int pooledNodes() {
+        return pooledNodes;
+    }
+
+    /**
+     * Drops every pooled node, together with any element still referenced by nodes retired by
+     * {@link #clear()}, so they can be garbage collected. Later removals fill the pool again.
+     */
+    public void releasePool() {
+        pool = null;
+        pooledNodes = 0;
     }
 
     /**
@@ -61,7 +130,12 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     @Override
     public boolean contains(Object o) {
-        return containsRec(root, (T) o);
+        T value = (T) o;
+        if (selfAdjusting) {
+            root = splay(root, value);
+            return root != null && value.compareTo(root.value) == 0;
+        }
+        return containsRec(root, value);
     }
 
     private boolean containsRec(Node node, T value) {
@@ -96,7 +170,7 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return the node after the insertion has been performed
      */
     private Node insertRec(Node node, T value) {
-        if (node == null) return new Node(value);
+        if (node == null) return newNode(value);
         int cmp = value.compareTo(node.value);
         if (cmp < 0) {
             node.left = insertRec(node.left, value);
@@ -115,7 +189,8 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
     @Override
     public boolean remove(Object o) {
         if (contains(o)) {
-            root = deleteRec(root, (T) o);
+            T value = (T) o;
+            root = selfAdjusting ? deleteRoot(root, value) : deleteRec(root, value);
             size--;
             return true;
         }
@@ -135,15 +210,87 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
         if (cmp < 0) node.left = deleteRec(node.left, value);
         else if (cmp > 0) node.right = deleteRec(node.right, value);
         else {
-            if (node.left == null) return node.right;
-            if (node.right == null) return node.left;
-            Node minNode = findMinRec(node.right);
+            if (node.left == null || node.right == null) {
+                Node child = node.left == null ? node.right : node.left;
+                releaseNode(node);
+                return child;
+            }
+            Node minNode = findMinNode(node.right);
             node.value = minNode.value;
             node.right = deleteRec(node.right, minNode.value);
         }
         return node;
     }
 
+    /**
+     * Deletes the root of a splayed tree by splaying the largest element of its left subtree to the
+     * top and attaching the right subtree to it, without recursion.
+     * 
+     * @param node the root to delete, which holds the value
+     * @param value the value being deleted
+     * @return the new root of the tree
+     */
+    private Node deleteRoot(Node node, T value) {
+        Node result;
+        if (node.left == null) {
+            result = node.right;
+        } else {
+            result = splay(node.left, value);
+            result.right = node.right;
+        }
+        releaseNode(node);
+        return result;
+    }
+
+    /**
+     * Creates a node for a new value, reusing a pooled node when one is available.
+     * 
+     * @param value the value of the node
+     * @return a node holding the value and no children
+     */
+    private Node newNode(T value) {
+        if (pool == null) return new Node(value);
+        Node node = takePooledNode();
+        node.value = value;
+        node.left = node.right = null;
+        return node;
+    }
+
+    /**
+     * Removes a node from the pool. The pool is a tree of unused nodes whose shape does not matter:
+     * nodes freed one by one are chained through {@code right}, while graphs retired by {@link #clear()}
+     * keep their children. Right rotations at the head flatten retired graphs lazily, so each node
+     * is rotated at most once and taking a node costs amortized O(1).
+     * 
+     * @return an unused node, whose fields must be overwritten by the caller
+     */
+    private Node takePooledNode() {
+        Node node = pool;
+        while (node.left != null) {
+            Node pivot = node.left;
+            node.left = pivot.right;
+            pivot.right = node;
+            node = pivot;
+        }
+        pool = node.right;
+        pooledNodes--;
+        return node;
+    }
+
+    /**
+     * Returns a node detached from the tree to the pool, unless the pool is full.
+     * 
+     * @param node the node to recycle
+     */
+    private void releaseNode(Node node) {
+        if (pooledNodes >= nodePoolCapacity) return;
+        node.value = null;
+        node.left = null;
+        node.right = pool;
+        pool = node;
+        pooledNodes++;
+    }
+
     /**
      * Finds the minimum value node in the binary search tree starting from a given node.
      * 
@@ -152,21 +299,21 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     public T findMin() {
         if (root == null) throw new NoSuchElementException("El árbol está vacío");
-        return findMinRec(root).value;
+        return findMinNode(root).value;
     }
 
 
     /**
-     * Recursively finds the node with the minimun value in the tree.
+     * Finds the node with the minimun value in a subtree by following its left spine.
      * 
-     * @param node the current node being examined
+     * @param node the root of the subtree
      * @return the node with the minimun value
      */
-    private Node findMinRec(Node node) {
-        if (node.right == null) {
-            return node;
+    private Node findMinNode(Node node) {
+        while (node.left != null) {
+            node = node.left;
         }
-        return findMaxRec(node.left);
+        return node;
     }
 
     /**
@@ -179,9 +326,14 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
     @Override
     public T get(int index) {
         if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
-        List<T> sortedElements = new ArrayList<>();
-        inOrderTraversalRec(root, sortedElements);
-        return sortedElements.get(index);
+        int[] remaining = {index};
+        List<T> found = new ArrayList<>(1);
+        inOrderNodes(value -> {
+            if (remaining[0]-- > 0) return true;
+            found.add(value);
+            return false;
+        });
+        return found.get(0);
     }
 
 
@@ -194,9 +346,13 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     @Override
     public int indexOf(Object o) {
-        List<T> sortedElements = new ArrayList<>();
-        inOrderTraversalRec(root, sortedElements);
-        return sortedElements.indexOf(o);
+        int[] index = {0};
+        boolean completed = inOrderNodes(value -> {
+            if (value.equals(o)) return false;
+            index[0]++;
+            return true;
+        });
+        return completed ? -1 : index[0];
     }
 
     /**
@@ -206,9 +362,7 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     @Override
     public Object[] toArray() {
-        List<T> sortedElements = new ArrayList<>();
-        inOrderTraversalRec(root, sortedElements);
-        return sortedElements.toArray();
+        return inOrderTraversal().toArray();
     }
 
     /**
@@ -220,9 +374,7 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     @Override
     public <T1> T1[] toArray(T1[] a) {
-        List<T> sortedElements = new ArrayList<>();
-        inOrderTraversalRec(root, sortedElements);
-        return sortedElements.toArray(a);
+        return inOrderTraversal().toArray(a);
     }
 
     /**
@@ -292,10 +444,24 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
     }
 
     /**
-     * Removes all elements from the tree, leaving it empty.
+     * Removes all elements from the tree, leaving it empty. When node pooling is enabled and the
+     * pool has room for every node, the node graph is handed to the pool in constant time.
      */
     @Override
     public void clear() {
+        if (root != null && nodePoolCapacity - pooledNodes >= size) {
+            if (pool == null) {
+                pool = root;
+            } else {
+                Node head = takePooledNode();
+                head.value = null;
+                head.left = root;
+                head.right = pool;
+                pool = head;
+                pooledNodes++;
+            }
+            pooledNodes += size;
+        }
         root = null;
         size = 0;
     }
@@ -308,6 +474,10 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return the element if found, null otherwise
      */
     public T search(T value) {
+        if (selfAdjusting) {
+            root = splay(root, value);
+            return root != null && value.compareTo(root.value) == 0 ? root.value : null;
+        }
         Node result = searchRec(root, value);
         return result == null ? null : result.value;
     }
@@ -332,29 +502,123 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
         }
     }
 
+    /**
+     * Splays the subtree rooted at the given node, bringing the node with the specified value (or the
+     * last node on its search path if the value is absent) to the top. This is the iterative top-down
+     * splay: nodes passed on the way down are linked into left and right trees that are reassembled
+     * under the new root, so it is safe on degenerate trees of any depth.
+     * 
+     * @param node the root of the subtree to splay
+     * @param value the value to splay towards
+     * @return the new root of the subtree
+     */
+    private Node splay(Node node, T value) {
+        if (node == null) return null;
+        Node header = splayHeader;
+        header.left = header.right = null;
+        Node leftMax = header;
+        Node rightMin = header;
+        while (true) {
+            int cmp = value.compareTo(node.value);
+            if (cmp < 0) {
+                if (node.left == null) break;
+                if (value.compareTo(node.left.value) < 0) {
+                    node = rotateRight(node);
+                    if (node.left == null) break;
+                }
+                rightMin.left = node;
+                rightMin = node;
+                node = node.left;
+            } else if (cmp > 0) {
+                if (node.right == null) break;
+                if (value.compareTo(node.right.value) > 0) {
+                    node = rotateLeft(node);
+                    if (node.right == null) break;
+                }
+                leftMax.right = node;
+                leftMax = node;
+                node = node.right;
+            } else {
+                break;
+            }
+        }
+        leftMax.right = node.left;
+        rightMin.left = node.right;
+        node.left = header.right;
+        node.right = header.left;
+        header.left = header.right = null;
+        return node;
+    }
+
+    /**
+     * Rotates the subtree rooted at the given node to the right.
+     * 
+     * @param node the root of the subtree, which must have a left child
+     * @return the new root of the subtree
+     */
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        return pivot;
+    }
+
+    /**
+     * Rotates the subtree rooted at the given node to the left.
+     * 
+     * @param node the root of the subtree, which must have a right child
+     * @return the new root of the subtree
+     */
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        return pivot;
+    }
+
     /**
      * Returns a list of elements in the tree in ascending order (in-order traversal).
      * 
      * @return the list of elements in ascending order
      */
     public List<T> inOrderTraversal() {
-        List<T> result = new ArrayList<>();
-        inOrderTraversalRec(root, result);
+        List<T> result = new ArrayList<>(size);
+        inOrderNodes(result::add);
         return result;
     }
 
     /**
-     * Performs an in-order traversal of the tree, recursively visiting nodes in left-root-right order.
+     * Visits the elements of the tree in ascending order (in-order traversal) until the visitor
+     * returns false.
+     * 
+     * @param visitor the callback invoked for each element
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    public boolean inOrder(TreeVisitor<? super T> visitor) {
+        if (selfAdjusting) return visitCopy(inOrderTraversal(), visitor);
+        return inOrderNodes(visitor);
+    }
+
+    /**
+     * Performs an in-order traversal of the live tree nodes in left-root-right order. The path to the
+     * current node is kept on a single array-backed stack, so the walk is safe at any depth.
      * 
-     * @param node the current node being visited
-     * @param result the list where node values will be stored
+     * @param visitor the callback invoked for each node value
+     * @return true if every element was visited, false if the visitor stopped the traversal
      */
-    private void inOrderTraversalRec(Node node, List<T> result) {
-        if (node != null) {
-            inOrderTraversalRec(node.left, result);
-            result.add(node.value);
-            inOrderTraversalRec(node.right, result);
+    private boolean inOrderNodes(TreeVisitor<? super T> visitor) {
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        Node current = root;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            current = stack.pop();
+            if (!visitor.visit(current.value)) return false;
+            current = current.right;
         }
+        return true;
     }
 
 
@@ -364,24 +628,41 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return a list containing the tree elements in pre-order
      */
     public List<T> preOrderTraversal() {
-        List<T> result = new ArrayList<>();
-        preOrderTraversalRec(root, result);
+        List<T> result = new ArrayList<>(size);
+        preOrderNodes(result::add);
         return result;
     }
 
+    /**
+     * Visits the elements of the tree in pre-order (root-left-right) until the visitor returns false.
+     * 
+     * @param visitor the callback invoked for each element
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    public boolean preOrder(TreeVisitor<? super T> visitor) {
+        if (selfAdjusting) return visitCopy(preOrderTraversal(), visitor);
+        return preOrderNodes(visitor);
+    }
+
 
     /**
-     * Performs a pre-order traversal of the tree, recursively visiting nodes in root-left-right order.
+     * Performs a pre-order traversal of the live tree nodes in root-left-right order, keeping the
+     * pending right subtrees on a single array-backed stack.
      * 
-     * @param node the current node being visited
-     * @param result the list where node values will be stored
+     * @param visitor the callback invoked for each node value
+     * @return true if every element was visited, false if the visitor stopped the traversal
      */
-    private void preOrderTraversalRec(Node node, List<T> result) {
-        if (node != null) {
-            result.add(node.value);
-            preOrderTraversalRec(node.left, result);
-            preOrderTraversalRec(node.right, result);
+    private boolean preOrderNodes(TreeVisitor<? super T> visitor) {
+        if (root == null) return true;
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (!visitor.visit(current.value)) return false;
+            if (current.right != null) stack.push(current.right);
+            if (current.left != null) stack.push(current.left);
         }
+        return true;
     }
 
 
@@ -391,24 +672,50 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return a list containing the tree elements in post-order
      */
     public List<T> postOrderTraversal() {
-        List<T> result = new ArrayList<>();
-        postOrderTraversalRec(root, result);
+        List<T> result = new ArrayList<>(size);
+        postOrderNodes(result::add);
         return result;
     }
 
+    /**
+     * Visits the elements of the tree in post-order (left-right-root) until the visitor returns false.
+     * 
+     * @param visitor the callback invoked for each element
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    public boolean postOrder(TreeVisitor<? super T> visitor) {
+        if (selfAdjusting) return visitCopy(postOrderTraversal(), visitor);
+        return postOrderNodes(visitor);
+    }
+
 
     /**
-     * Performs a post-order traversal of the tree, recursively visiting nodes in left-right-root order.
+     * Performs a post-order traversal of the live tree nodes in left-right-root order. The path to the
+     * current node is kept on a single array-backed stack; a node is visited once its right subtree
+     * is done, which is detected by the right child being the last node visited.
      * 
-     * @param node the current node being visited
-     * @param result the list where node values will be stored
+     * @param visitor the callback invoked for each node value
+     * @return true if every element was visited, false if the visitor stopped the traversal
      */
-    private void postOrderTraversalRec(Node node, List<T> result) {
-        if (node != null) {
-            postOrderTraversalRec(node.left, result);
-            postOrderTraversalRec(node.right, result);
-            result.add(node.value);
+    private boolean postOrderNodes(TreeVisitor<? super T> visitor) {
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        Node current = root;
+        Node lastVisited = null;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            Node top = stack.peek();
+            if (top.right != null && top.right != lastVisited) {
+                current = top.right;
+            } else {
+                stack.pop();
+                if (!visitor.visit(top.value)) return false;
+                lastVisited = top;
+            }
         }
+        return true;
     }
 
 
@@ -420,21 +727,21 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     public T findMax() {
         if (root == null) throw new NoSuchElementException("El árbol está vacío");
-        return findMaxRec(root).value;
+        return findMaxNode(root).value;
     }
 
 
     /**
-     * Recursively finds the node with the maximum value in the tree.
+     * Finds the node with the maximum value in a subtree by following its right spine.
      * 
-     * @param node the current node being examined
+     * @param node the root of the subtree
      * @return the node with the maximum value
      */
-    private Node findMaxRec(Node node) {
-        if (node.right == null) {
-            return node;
+    private Node findMaxNode(Node node) {
+        while (node.right != null) {
+            node = node.right;
         }
-        return findMaxRec(node.right);
+        return node;
     }
 
 
@@ -444,7 +751,20 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return the height of the tree, or -1 if the tree is empty
      */
     public int height() {
-        return heightRec(root);
+        int height = -1;
+        if (root == null) return height;
+
+        ArrayDeque<Node> level = new ArrayDeque<>();
+        level.add(root);
+        while (!level.isEmpty()) {
+            height++;
+            for (int remaining = level.size(); remaining > 0; remaining--) {
+                Node current = level.poll();
+                if (current.left != null) level.add(current.left);
+                if (current.right != null) level.add(current.right);
+            }
+        }
+        return height;
     }
 
 
@@ -471,6 +791,9 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return true if the tree is balanced, false otherwise
      */
     public boolean isBalanced() {
+        // A height-balanced tree is at most about 1.44 log2(n) high, so a taller tree (such as a chain
+        // built by a self-adjusting tree) is rejected before the recursive check below
+        if (height() > 2 * (32 - Integer.numberOfLeadingZeros(size))) return false;
         return isBalancedRec(root);
     }
 
@@ -498,21 +821,79 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      * @return a list of elements in level-order traversal
      */
     public List<T> levelOrderTraversal() {
-        List<T> result = new ArrayList<>();
-        if (root == null) return result;
+        List<T> result = new ArrayList<>(size);
+        levelOrderNodes(result::add);
+        return result;
+    }
 
-        Queue<Node> queue = new LinkedList<>();
+    /**
+     * Visits the elements of the tree level by level (breadth-first) until the visitor returns false.
+     * The pending nodes are kept in a single array-backed queue, so no allocation is made per element.
+     * 
+     * @param visitor the callback invoked for each element
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    public boolean levelOrder(TreeVisitor<? super T> visitor) {
+        if (selfAdjusting) return visitCopy(levelOrderTraversal(), visitor);
+        return levelOrderNodes(visitor);
+    }
+
+    /**
+     * Performs a level-order traversal of the live tree nodes using a single array-backed queue.
+     * 
+     * @param visitor the callback invoked for each node value
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    private boolean levelOrderNodes(TreeVisitor<? super T> visitor) {
+        if (root == null) return true;
+
+        ArrayDeque<Node> queue = new ArrayDeque<>();
         queue.add(root);
 
         while (!queue.isEmpty()) {
             Node current = queue.poll();
-            result.add(current.value);
+            if (!visitor.visit(current.value)) return false;
 
             if (current.left != null) queue.add(current.left);
             if (current.right != null) queue.add(current.right);
         }
 
-        return result;
+        return true;
+    }
+
+    /**
+     * Visits the elements of a previously taken copy of the tree until the visitor returns false.
+     * 
+     * @param elements the copied elements, in the order they should be visited
+     * @param visitor the callback invoked for each element
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    private boolean visitCopy(List<T> elements, TreeVisitor<? super T> visitor) {
+        for (T value : elements) {
+            if (!visitor.visit(value)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Performs the given action for each element of the tree in ascending (in-order) sequence.
+     * In a plain tree the nodes are walked in place without copying the elements into an
+     * intermediate list; in self-adjusting mode a copy is walked instead.
+     * 
+     * @param action the action to perform for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (selfAdjusting) {
+            inOrderTraversal().forEach(action);
+            return;
+        }
+        inOrderNodes(value -> {
+            action.accept(value);
+            return true;
+        });
     }
 
     /**
@@ -522,9 +903,7 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        List<T> sortedElements = new ArrayList<>();
-        inOrderTraversalRec(root, sortedElements);
-        return sortedElements.iterator();
+        return inOrderTraversal().iterator();
     }
 
     /**
@@ -538,9 +917,7 @@ public class BinarySearchTree<T extends Comparable<T>> implements List<T> {
      */
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
-        List<T> sortedElements = new ArrayList<>();
-        inOrderTraversalRec(root, sortedElements);
-        return sortedElements.subList(fromIndex, toIndex);
+        return inOrderTraversal().subList(fromIndex, toIndex);
     }
 
     // The following List interface methods are not supported by the Binary Search Tree
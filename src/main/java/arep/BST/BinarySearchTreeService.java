@@ -0,0 +1,467 @@
+package arep.BST;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A thread-safe ordered set for many concurrent callers, offering the lookups of a
+ * {@link BinarySearchTree} behind asynchronous writes. Inserts and removals are queued and applied in
+ * batches by a single writer thread. The elements are held
+ * in a persistent balanced tree: a write copies only the O(log n) nodes on its path and shares the
+ * rest, so after each batch the writer publishes the new root as an immutable snapshot in constant
+ * time. Lookups read the latest snapshot without locking, so they never wait for writers. Once the
+ * future returned by {@link #insert(Comparable)} or {@link #remove(Comparable)} completes, the
+ * change is visible to lookups.
+ *
+ * Futures are completed on the completion executor, never on the writer thread, so dependent
+ * stages attached by callers cannot stall the writes of others. The service must be closed to stop
+ * its writer thread; pending requests are applied before it stops.
+ *
+ * @param <T> the type of elements in the tree, which must implement Comparable.
+ */
+public class BinarySearchTreeService<T extends Comparable<T>> implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    // Operations that can be queued for the writer thread
+    private enum Operation { INSERT, REMOVE, STOP }
+
+    // A queued write together with the future of its caller
+    private static final class Request<T> {
+        final Operation operation;
+        final T value;
+        final CompletableFuture<Boolean> result;
+
+        Request(Operation operation, T value) {
+            this.operation = operation;
+            this.value = value;
+            this.result = new CompletableFuture<>();
+        }
+    }
+
+    // Immutable AVL node of a published snapshot; writes build new nodes along their path only
+    private static final class Node<T> {
+        final T value;
+        final Node<T> left, right;
+        final int height;
+        final int size;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private final BlockingQueue<Request<T>> requests;
+    private final int maxBatchSize;
+    private final Executor completionExecutor;
+    private final Thread writer;
+    private volatile Node<T> snapshot;
+    private volatile boolean closed;
+    private volatile Throwable writerFailure;
+
+    /**
+     * Constructor that starts an empty service with the default batch size, completing futures on
+     * the common fork-join pool.
+     */
+    public BinarySearchTreeService() {
+        this(Collections.emptyList(), DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor that starts a service seeded with the given elements, completing futures on the
+     * common fork-join pool.
+     *
+     * @param initialElements the elements the service starts with; they are copied, and the
+     *                        collection is neither kept nor modified
+     * @param maxBatchSize the maximum number of writes applied before a new snapshot is published
+     * @throws IllegalArgumentException if the batch size is not positive
+     * @throws NullPointerException if the collection or any of its elements is null
+     */
+    public BinarySearchTreeService(Collection<? extends T> initialElements, int maxBatchSize) {
+        this(initialElements, maxBatchSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor that starts a service seeded with the given elements. Passing a
+     * {@link BinarySearchTree} only copies its elements: the service keeps its own persistent tree,
+     * so settings such as self-adjusting mode or node pooling do not carry over.
+     *
+     * @param initialElements the elements the service starts with; they are copied, and the
+     *                        collection is neither kept nor modified
+     * @param maxBatchSize the maximum number of writes applied before a new snapshot is published
+     * @param completionExecutor the executor that completes the callers' futures after each batch
+     * @throws IllegalArgumentException if the batch size is not positive
+     * @throws NullPointerException if the collection or any of its elements is null
+     */
+    public BinarySearchTreeService(Collection<? extends T> initialElements, int maxBatchSize,
+            Executor completionExecutor) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("Batch size must be positive");
+        this.maxBatchSize = maxBatchSize;
+        this.completionExecutor = Objects.requireNonNull(completionExecutor);
+        this.requests = new LinkedBlockingQueue<>();
+        this.snapshot = seed(initialElements);
+        this.writer = new Thread(this::runWriter, "bst-service-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues the insertion of an element.
+     *
+     * @param value the element to add
+     * @return a future completed with true if the element was added, false if it was already present
+     * @throws NullPointerException if the value is null
+     */
+    public CompletableFuture<Boolean> insert(T value) {
+        return submit(new Request<>(Operation.INSERT, Objects.requireNonNull(value)));
+    }
+
+    /**
+     * Queues the removal of an element.
+     *
+     * @param value the element to remove
+     * @return a future completed with true if the element was removed, false if it was not present
+     * @throws NullPointerException if the value is null
+     */
+    public CompletableFuture<Boolean> remove(T value) {
+        return submit(new Request<>(Operation.REMOVE, Objects.requireNonNull(value)));
+    }
+
+    /**
+     * Searches for an element in the latest published snapshot.
+     *
+     * @param value the element to search for
+     * @return a completed future holding the element if found, null otherwise
+     */
+    public CompletableFuture<T> lookup(T value) {
+        return CompletableFuture.completedFuture(search(value));
+    }
+
+    /**
+     * Searches for an element in the latest published snapshot.
+     *
+     * @param value the element to search for
+     * @return the element if found, null otherwise
+     */
+    public T search(T value) {
+        Node<T> node = snapshot;
+        while (node != null) {
+            int cmp = value.compareTo(node.value);
+            if (cmp == 0) return node.value;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the latest published snapshot contains an element.
+     *
+     * @param value the element to check
+     * @return true if the snapshot contains the element, false otherwise
+     */
+    public boolean contains(T value) {
+        return search(value) != null;
+    }
+
+    /**
+     * Returns the number of elements in the latest published snapshot.
+     *
+     * @return the size of the snapshot
+     */
+    public int size() {
+        return size(snapshot);
+    }
+
+    /**
+     * Returns the elements of the latest published snapshot in ascending order.
+     *
+     * @return an unmodifiable list of the elements in ascending order
+     */
+    public List<T> snapshot() {
+        Node<T> node = snapshot;
+        List<T> result = new ArrayList<>(size(node));
+        ArrayDeque<Node<T>> stack = new ArrayDeque<>();
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            result.add(node.value);
+            node = node.right;
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Stops accepting writes, applies the pending ones and waits for the writer thread to finish.
+     * Writes submitted afterwards fail with an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        requests.add(new Request<>(Operation.STOP, null));
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Hands a write to the writer thread, or fails it if the service is closed or its writer has
+     * stopped. The second check catches a write enqueued after the writer has drained the queue for
+     * the last time.
+     *
+     * @param request the write to queue
+     * @return the future of the request
+     */
+    private CompletableFuture<Boolean> submit(Request<T> request) {
+        if (closed) {
+            request.result.completeExceptionally(closedException());
+            return request.result;
+        }
+        requests.add(request);
+        if (closed && requests.remove(request)) {
+            request.result.completeExceptionally(closedException());
+        }
+        return request.result;
+    }
+
+    /**
+     * Creates the exception used to fail writes once the writer no longer accepts them.
+     *
+     * @return an exception whose cause is the error that stopped the writer, if any
+     */
+    private IllegalStateException closedException() {
+        Throwable failure = writerFailure;
+        return failure == null
+                ? new IllegalStateException("The service is closed")
+                : new IllegalStateException("The service writer has stopped", failure);
+    }
+
+    /**
+     * Main loop of the writer thread: waits for a write, drains up to a full batch behind it,
+     * applies the batch to the persistent tree, publishes the new root and hands the callers'
+     * futures to the completion executor. A write that throws fails only its own future. If the
+     * loop itself stops for any reason, the service is closed and every queued write is failed.
+     */
+    private void runWriter() {
+        Node<T> current = snapshot;
+        List<Request<T>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            boolean running = true;
+            while (running) {
+                batch.add(requests.take());
+                requests.drainTo(batch, maxBatchSize - 1);
+
+                boolean[] results = new boolean[batch.size()];
+                Throwable[] failures = new Throwable[batch.size()];
+                for (int i = 0; i < batch.size(); i++) {
+                    Request<T> request = batch.get(i);
+                    try {
+                        if (request.operation == Operation.STOP) {
+                            running = false;
+                            continue;
+                        }
+                        Node<T> updated = request.operation == Operation.INSERT
+                                ? insert(current, request.value)
+                                : remove(current, request.value);
+                        results[i] = updated != current;
+                        current = updated;
+                    } catch (Throwable e) {
+                        failures[i] = e;
+                    }
+                }
+                snapshot = current;
+
+                // From here on the batch is applied, so it must be reported as applied, never failed
+                List<Request<T>> applied = batch;
+                batch = new ArrayList<>(maxBatchSize);
+                complete(applied, results, failures);
+            }
+        } catch (Throwable e) {
+            if (!(e instanceof InterruptedException)) writerFailure = e;
+        } finally {
+            closed = true;
+            for (Request<T> request : batch) {
+                request.result.completeExceptionally(closedException());
+            }
+            Request<T> pending;
+            while ((pending = requests.poll()) != null) {
+                pending.result.completeExceptionally(closedException());
+            }
+        }
+    }
+
+    /**
+     * Completes the futures of an applied batch on the completion executor, or on the writer thread
+     * if the executor throws anything instead of accepting the task.
+     *
+     * @param batch the applied requests
+     * @param results the outcome of each request
+     * @param failures the error thrown by each request, or null if it succeeded
+     */
+    private void complete(List<Request<T>> batch, boolean[] results, Throwable[] failures) {
+        Runnable completion = () -> {
+            for (int i = 0; i < batch.size(); i++) {
+                Request<T> request = batch.get(i);
+                if (failures[i] != null) request.result.completeExceptionally(failures[i]);
+                else request.result.complete(results[i]);
+            }
+        };
+        try {
+            completionExecutor.execute(completion);
+        } catch (Throwable e) {
+            completion.run();
+        }
+    }
+
+    /**
+     * Builds the initial balanced tree from a collection that may be unsorted or hold duplicates.
+     *
+     * @param elements the initial elements
+     * @return the root of the balanced tree, or null if there are no elements
+     */
+    private static <T extends Comparable<T>> Node<T> seed(Collection<? extends T> elements) {
+        Object[] sorted = elements.toArray();
+        for (Object element : sorted) {
+            Objects.requireNonNull(element);
+        }
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (unique == 0 || compare(sorted[unique - 1], sorted[i]) != 0) sorted[unique++] = sorted[i];
+        }
+        return build(sorted, 0, unique);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> int compare(Object a, Object b) {
+        return ((T) a).compareTo((T) b);
+    }
+
+    /**
+     * Builds a balanced tree from a sorted range of elements.
+     *
+     * @param sorted the elements in ascending order
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     * @return the root of the balanced tree, or null if the range is empty
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] sorted, int from, int to) {
+        if (from >= to) return null;
+        int mid = (from + to) >>> 1;
+        return new Node<>((T) sorted[mid], build(sorted, from, mid), build(sorted, mid + 1, to));
+    }
+
+    /**
+     * Returns a tree that also contains the value, copying only the nodes on its path.
+     *
+     * @param node the root of the subtree
+     * @param value the value to insert
+     * @return the new root, or the same node if the value was already present
+     */
+    private static <T extends Comparable<T>> Node<T> insert(Node<T> node, T value) {
+        if (node == null) return new Node<>(value, null, null);
+        int cmp = value.compareTo(node.value);
+        if (cmp < 0) {
+            Node<T> left = insert(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        }
+        if (cmp > 0) {
+            Node<T> right = insert(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        return node;
+    }
+
+    /**
+     * Returns a tree without the value, copying only the nodes on its path.
+     *
+     * @param node the root of the subtree
+     * @param value the value to remove
+     * @return the new root, or the same node if the value was not present
+     */
+    private static <T extends Comparable<T>> Node<T> remove(Node<T> node, T value) {
+        if (node == null) return null;
+        int cmp = value.compareTo(node.value);
+        if (cmp < 0) {
+            Node<T> left = remove(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        }
+        if (cmp > 0) {
+            Node<T> right = remove(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        if (node.left == null) return node.right;
+        if (node.right == null) return node.left;
+        Node<T> min = node.right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(min.value, node.left, removeMin(node.right));
+    }
+
+    /**
+     * Returns a tree without its smallest element, copying only the nodes on the left spine.
+     *
+     * @param node the root of the subtree, which must not be null
+     * @return the new root of the subtree
+     */
+    private static <T> Node<T> removeMin(Node<T> node) {
+        if (node.left == null) return node.right;
+        return balance(node.value, removeMin(node.left), node.right);
+    }
+
+    /**
+     * Creates a node over two subtrees whose heights differ by at most two, applying the single or
+     * double AVL rotation needed to restore balance.
+     *
+     * @param value the value of the new node
+     * @param left the left subtree
+     * @param right the right subtree
+     * @return the root of the balanced subtree
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
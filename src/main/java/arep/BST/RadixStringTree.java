@@ -0,0 +1,570 @@
+package arep.BST;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * An ordered set of strings backed by a compressed radix tree that implements the List interface.
+ * It offers the same operations as {@link BinarySearchTree} for String keys, but each shared prefix
+ * is stored once on an edge instead of being repeated in every key, and a lookup reads every
+ * character of the key at most once instead of re-comparing the common prefix at each level.
+ * Elements are kept in the same order as {@link String#compareTo(String)}.
+ *
+ * Shape-dependent operations of the binary tree (pre/post/level-order traversals, height and
+ * balance) have no meaning for a radix tree and are not provided.
+ */
+public class RadixStringTree implements List<String> {
+
+    // Inner class representing a node; the key of a node is the concatenation of the labels on its path
+    static class Node {
+        String label;
+        boolean terminal;
+        Node[] children;
+        int count;  // number of keys in the subtree rooted at this node, used for positional access
+
+        // Constructor for creating a new node with a specific edge label
+        Node(String label, boolean terminal) {
+            this.label = label;
+            this.terminal = terminal;
+            children = null;
+            count = terminal ? 1 : 0;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    /**
+     * Constructor that initializes an empty radix tree.
+     */
+    public RadixStringTree() {
+        root = new Node("", false);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the tree.
+     *
+     * @return the size of the tree
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the tree is empty.
+     *
+     * @return true if the tree is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the tree contains a specific element.
+     *
+     * @param o the element to check
+     * @return true if the tree contains the element, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) return false;
+        String key = (String) o;
+        Node node = root;
+        int pos = 0;
+        while (pos < key.length()) {
+            int index = childIndex(node, key.charAt(pos));
+            if (index < 0) return false;
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, pos)) return false;
+            pos += child.label.length();
+            node = child;
+        }
+        return node.terminal;
+    }
+
+    /**
+     * Adds an element to the tree if it doesn't already exist.
+     *
+     * @param value the element to add
+     * @return true if the element was added, false otherwise
+     */
+    @Override
+    public boolean add(String value) {
+        if (contains(value)) return false;
+        Node node = root;
+        node.count++;
+        int pos = 0;
+        while (pos < value.length()) {
+            int index = childIndex(node, value.charAt(pos));
+            if (index < 0) {
+                insertChild(node, -index - 1, new Node(value.substring(pos), true));
+                size++;
+                return true;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, value, pos);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common), false);
+                split.count = child.count;
+                child.label = child.label.substring(common);
+                split.children = new Node[] {child};
+                node.children[index] = split;
+                child = split;
+            }
+            pos += common;
+            node = child;
+            node.count++;
+        }
+        node.terminal = true;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes an element from the tree.
+     *
+     * @param o the element to remove
+     * @return true if the element was removed, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof String)) return false;
+        if (removeRec(root, (String) o, 0)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Recursively removes a key from the subtree below a node, then drops or merges the child it
+     * descended into so that every non-terminal node keeps at least two children.
+     *
+     * @param node the current node in the recursion
+     * @param key the key to remove
+     * @param pos the number of key characters already matched on the path to the node
+     * @return true if the key was found and removed, false otherwise
+     */
+    private boolean removeRec(Node node, String key, int pos) {
+        if (pos == key.length()) {
+            if (!node.terminal) return false;
+            node.terminal = false;
+            node.count--;
+            return true;
+        }
+        int index = childIndex(node, key.charAt(pos));
+        if (index < 0) return false;
+        Node child = node.children[index];
+        if (!key.startsWith(child.label, pos)) return false;
+        if (!removeRec(child, key, pos + child.label.length())) return false;
+        node.count--;
+
+        if (!child.terminal) {
+            if (child.children == null) {
+                removeChild(node, index);
+            } else if (child.children.length == 1) {
+                Node grandChild = child.children[0];
+                grandChild.label = child.label + grandChild.label;
+                node.children[index] = grandChild;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the position of the child whose edge label starts with the given character.
+     *
+     * @param node the parent node
+     * @param c the first character of the wanted edge
+     * @return the index of the child, or {@code -(insertionPoint) - 1} if there is none
+     */
+    private int childIndex(Node node, char c) {
+        Node[] children = node.children;
+        if (children == null) return -1;
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = children[mid].label.charAt(0);
+            if (midChar < c) low = mid + 1;
+            else if (midChar > c) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Inserts a child at the given position, keeping the children array exactly sized.
+     *
+     * @param node the parent node
+     * @param index the position of the new child
+     * @param child the child to insert
+     */
+    private void insertChild(Node node, int index, Node child) {
+        Node[] children = node.children;
+        if (children == null) {
+            node.children = new Node[] {child};
+            return;
+        }
+        Node[] grown = new Node[children.length + 1];
+        System.arraycopy(children, 0, grown, 0, index);
+        grown[index] = child;
+        System.arraycopy(children, index, grown, index + 1, children.length - index);
+        node.children = grown;
+    }
+
+    /**
+     * Removes the child at the given position, keeping the children array exactly sized.
+     *
+     * @param node the parent node
+     * @param index the position of the child to remove
+     */
+    private void removeChild(Node node, int index) {
+        Node[] children = node.children;
+        if (children.length == 1) {
+            node.children = null;
+            return;
+        }
+        Node[] shrunk = new Node[children.length - 1];
+        System.arraycopy(children, 0, shrunk, 0, index);
+        System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+        node.children = shrunk;
+    }
+
+    /**
+     * Counts how many leading characters of a label match the key starting at an offset.
+     *
+     * @param label the edge label
+     * @param key the key being inserted
+     * @param pos the offset in the key where the label starts
+     * @return the length of the common prefix
+     */
+    private static int commonPrefixLength(String label, String key, int pos) {
+        int max = Math.min(label.length(), key.length() - pos);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Searches for a specific element in the tree.
+     *
+     * @param value the element to search for
+     * @return the element if found, null otherwise
+     */
+    public String search(String value) {
+        return contains(value) ? value : null;
+    }
+
+    /**
+     * Finds and returns the minimum value in the tree.
+     *
+     * @return the minimum value in the tree
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public String findMin() {
+        if (size == 0) throw new NoSuchElementException("El árbol está vacío");
+        StringBuilder key = new StringBuilder();
+        Node node = root;
+        while (!node.terminal) {
+            node = node.children[0];
+            key.append(node.label);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Finds and returns the maximum value in the tree.
+     *
+     * @return the maximum value in the tree
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public String findMax() {
+        if (size == 0) throw new NoSuchElementException("El árbol está vacío");
+        StringBuilder key = new StringBuilder();
+        Node node = root;
+        while (node.children != null) {
+            node = node.children[node.children.length - 1];
+            key.append(node.label);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns a list of elements in the tree in ascending order.
+     *
+     * @return the list of elements in ascending order
+     */
+    public List<String> inOrderTraversal() {
+        List<String> result = new ArrayList<>(size);
+        inOrder(result::add);
+        return result;
+    }
+
+    /**
+     * Visits the elements of the tree in ascending order until the visitor returns false.
+     *
+     * @param visitor the callback invoked for each element
+     * @return true if every element was visited, false if the visitor stopped the traversal
+     */
+    public boolean inOrder(TreeVisitor<? super String> visitor) {
+        return inOrderRec(root, new StringBuilder(), visitor);
+    }
+
+    /**
+     * Recursively visits a node's key before the keys of its children, which yields ascending order.
+     *
+     * @param node the current node being visited
+     * @param prefix the key of the current node; restored to its original length on return
+     * @param visitor the callback invoked for each element
+     * @return true if the traversal should continue, false otherwise
+     */
+    private boolean inOrderRec(Node node, StringBuilder prefix, TreeVisitor<? super String> visitor) {
+        if (node.terminal && !visitor.visit(prefix.toString())) return false;
+        if (node.children == null) return true;
+        int length = prefix.length();
+        for (Node child : node.children) {
+            prefix.append(child.label);
+            boolean proceed = inOrderRec(child, prefix, visitor);
+            prefix.setLength(length);
+            if (!proceed) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Performs the given action for each element of the tree in ascending sequence.
+     *
+     * @param action the action to perform for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super String> action) {
+        Objects.requireNonNull(action);
+        inOrder(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    /**
+     * Returns the element at a specific index in the tree when viewed in sorted order. The tree is
+     * descended using the key count of each subtree, so only the requested key is built.
+     *
+     * @param index the index of the element
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        StringBuilder key = new StringBuilder();
+        Node node = root;
+        while (true) {
+            if (node.terminal) {
+                if (index == 0) return key.toString();
+                index--;
+            }
+            for (Node child : node.children) {
+                if (index < child.count) {
+                    key.append(child.label);
+                    node = child;
+                    break;
+                }
+                index -= child.count;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the specified element in the tree, or -1 if this tree does not contain the element.
+     * The index is found by counting the keys that sort before the element along its path, so no
+     * other key is built.
+     *
+     * @param o the element to search for in the tree
+     * @return the index of the element if found, otherwise -1
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof String)) return -1;
+        String key = (String) o;
+        Node node = root;
+        int index = 0;
+        int pos = 0;
+        while (pos < key.length()) {
+            int childIndex = childIndex(node, key.charAt(pos));
+            if (childIndex < 0) return -1;
+            Node child = node.children[childIndex];
+            if (!key.startsWith(child.label, pos)) return -1;
+            if (node.terminal) index++;
+            for (int i = 0; i < childIndex; i++) {
+                index += node.children[i].count;
+            }
+            pos += child.label.length();
+            node = child;
+        }
+        return node.terminal ? index : -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the tree in sorted sequence.
+     *
+     * @return an array containing all of the elements in this tree
+     */
+    @Override
+    public Object[] toArray() {
+        return inOrderTraversal().toArray();
+    }
+
+    /**
+     * Returns an array containing all of the elements in the tree in sorted sequence; the runtime type of the returned array is that of the specified array.
+     *
+     * @param <T1> the component type of the array to contain the tree's elements
+     * @param a the array into which the elements of the tree are to be stored
+     * @return an array containing the elements of the tree
+     */
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        return inOrderTraversal().toArray(a);
+    }
+
+    /**
+     * Checks if the tree contains all elements from the specified collection.
+     *
+     * @param c the collection to check for containment
+     * @return true if the tree contains all elements in the specified collection, false otherwise
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object elem : c) {
+            if (!contains(elem)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds all elements from the specified collection to the tree.
+     *
+     * @param c the collection containing elements to be added
+     * @return true if the tree was modified as a result of the operation, false otherwise
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean addAll(Collection<? extends String> c) {
+        boolean modified = false;
+        for (String elem : c) {
+            if (add(elem)) modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Removes all elements from the tree that are also contained in the specified collection.
+     *
+     * @param c the collection containing elements to be removed from the tree
+     * @return true if the tree was modified as a result of the operation, false otherwise
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean modified = false;
+        for (Object elem : c) {
+            if (remove(elem)) modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Retains only the elements in the tree that are contained in the specified collection.
+     *
+     * @param c the collection containing elements to retain in the tree
+     * @return true if the tree was modified as a result of the operation, false otherwise
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean modified = false;
+        for (String elem : this) {
+            if (!c.contains(elem)) {
+                remove(elem);
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * Removes all elements from the tree, leaving it empty.
+     */
+    @Override
+    public void clear() {
+        root = new Node("", false);
+        size = 0;
+    }
+
+    /**
+     * Returns an iterator over the elements of the tree in ascending order.
+     *
+     * @return an iterator over the elements of the tree
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return inOrderTraversal().iterator();
+    }
+
+    /**
+     * Returns a view of the portion of the tree elements in ascending order between the specified
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     *
+     * @param fromIndex the starting index, inclusive
+     * @param toIndex the ending index, exclusive
+     * @return a list containing the specified range of elements
+     * @throws IndexOutOfBoundsException if an index is out of range
+     */
+    @Override
+    public List<String> subList(int fromIndex, int toIndex) {
+        return inOrderTraversal().subList(fromIndex, toIndex);
+    }
+
+    // The following List interface methods are not supported by the radix tree
+    @Override
+    public boolean addAll(int index, Collection<? extends String> c) {
+        throw new UnsupportedOperationException("Adding all by index is not supported in a radix tree");
+    }
+
+    @Override
+    public ListIterator<String> listIterator() {
+        throw new UnsupportedOperationException("ListIterator is not supported in a radix tree");
+    }
+
+    @Override
+    public ListIterator<String> listIterator(int index) {
+        throw new UnsupportedOperationException("ListIterator by index is not supported in a radix tree");
+    }
+
+    @Override
+    public String set(int index, String element) {
+        throw new UnsupportedOperationException("Setting by index is not supported in a radix tree");
+    }
+
+    @Override
+    public void add(int index, String element) {
+        throw new UnsupportedOperationException("Adding by index is not supported in a radix tree");
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        throw new UnsupportedOperationException("Unimplemented method 'lastIndexOf'");
+    }
+
+    @Override
+    public String remove(int index) {
+        throw new UnsupportedOperationException("Unimplemented method 'remove'");
+    }
+}
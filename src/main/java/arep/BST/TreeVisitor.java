@@ -0,0 +1,19 @@
+package arep.BST;
+
+/**
+ * A callback invoked for each element visited during a traversal of a {@link BinarySearchTree}.
+ * Returning false stops the traversal early.
+ * 
+ * @param <T> the type of elements visited
+ */
+@FunctionalInterface
+public interface TreeVisitor<T> {
+
+    /**
+     * Visits an element of the tree.
+     * 
+     * @param value the element being visited
+     * @return true to continue the traversal, false to stop it
+     */
+    boolean visit(T value);
+}
@@ -0,0 +1,135 @@
+package arep.BST;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares throughput and latency percentiles of {@link BinarySearchTreeService} against a
+ * {@link BinarySearchTree} guarded by {@code synchronized}, with many threads issuing a mix of
+ * lookups and writes. Each write waits for its result. This is a plain timing harness, not a unit
+ * test; run it after {@code mvn test-compile} with
+ * {@code java -cp target/classes:target/test-classes arep.BST.BinarySearchTreeServiceBenchmark}.
+ */
+public class BinarySearchTreeServiceBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 100_000;
+    private static final int KEY_RANGE = 100_000;
+    private static final int WRITE_PERCENT = 10;
+    private static final int ROUNDS = 2;
+
+    // The operations a caller issues, implemented once per contender
+    private interface Contender {
+        boolean lookup(Integer key);
+
+        void write(Integer key, boolean insert);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%d threads, %d%% writes, %d available processors%n",
+                THREADS, WRITE_PERCENT, Runtime.getRuntime().availableProcessors());
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.println("Round " + round);
+
+            BinarySearchTree<Integer> locked = initialTree();
+            run("synchronized", new Contender() {
+                @Override
+                public boolean lookup(Integer key) {
+                    synchronized (locked) {
+                        return locked.contains(key);
+                    }
+                }
+
+                @Override
+                public void write(Integer key, boolean insert) {
+                    synchronized (locked) {
+                        if (insert) locked.add(key);
+                        else locked.remove(key);
+                    }
+                }
+            });
+
+            try (BinarySearchTreeService<Integer> service = new BinarySearchTreeService<>(initialTree(), 256)) {
+                run("service", new Contender() {
+                    @Override
+                    public boolean lookup(Integer key) {
+                        return service.contains(key);
+                    }
+
+                    @Override
+                    public void write(Integer key, boolean insert) {
+                        (insert ? service.insert(key) : service.remove(key)).join();
+                    }
+                });
+            }
+        }
+    }
+
+    // Half of the key range, inserted in random order
+    private static BinarySearchTree<Integer> initialTree() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        Random random = new Random(9);
+        for (int i = 0; i < KEY_RANGE / 2; i++) {
+            tree.add(random.nextInt(KEY_RANGE));
+        }
+        return tree;
+    }
+
+    private static void run(String name, Contender contender) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        long[][] readLatencies = new long[THREADS][];
+        long[][] writeLatencies = new long[THREADS][];
+        List<Future<?>> tasks = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            tasks.add(callers.submit(() -> {
+                Random random = new Random(id);
+                long[] reads = new long[OPERATIONS_PER_THREAD];
+                long[] writes = new long[OPERATIONS_PER_THREAD];
+                int readCount = 0;
+                int writeCount = 0;
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    Integer key = random.nextInt(KEY_RANGE);
+                    long begin = System.nanoTime();
+                    if (random.nextInt(100) < WRITE_PERCENT) {
+                        contender.write(key, random.nextBoolean());
+                        writes[writeCount++] = System.nanoTime() - begin;
+                    } else {
+                        contender.lookup(key);
+                        reads[readCount++] = System.nanoTime() - begin;
+                    }
+                }
+                readLatencies[id] = Arrays.copyOf(reads, readCount);
+                writeLatencies[id] = Arrays.copyOf(writes, writeCount);
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        callers.shutdown();
+
+        long[] reads = sorted(readLatencies);
+        long[] writes = sorted(writeLatencies);
+        long[] all = sorted(readLatencies, writeLatencies);
+        System.out.printf("  %-13s %6.2f Mops/s  all p99 %8.1f us  read p50/p99 %6.1f/%8.1f us"
+                + "  write p50/p99 %8.1f/%8.1f us%n", name, all.length * 1000.0 / elapsed,
+                percentile(all, 0.99), percentile(reads, 0.5), percentile(reads, 0.99),
+                percentile(writes, 0.5), percentile(writes, 0.99));
+    }
+
+    private static long[] sorted(long[][]... samples) {
+        return Arrays.stream(samples).flatMap(Arrays::stream).flatMapToLong(Arrays::stream).sorted().toArray();
+    }
+
+    // Percentile of sorted nanosecond samples, in microseconds
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[(int) (sorted.length * fraction)] / 1000.0;
+    }
+}
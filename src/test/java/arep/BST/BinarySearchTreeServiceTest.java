@@ -0,0 +1,179 @@
+package arep.BST;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+class BinarySearchTreeServiceTest {
+
+    private BinarySearchTreeService<Integer> service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BinarySearchTreeService<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void testInsertIsVisibleOnceCompleted() {
+        assertTrue(service.insert(10).join());
+        assertTrue(service.insert(5).join());
+        assertFalse(service.insert(10).join());
+        assertTrue(service.contains(5));
+        assertEquals(10, service.lookup(10).join());
+        assertNull(service.lookup(7).join());
+        assertEquals(2, service.size());
+    }
+
+    @Test
+    void testRemove() {
+        service.insert(10).join();
+        service.insert(20).join();
+        assertTrue(service.remove(10).join());
+        assertFalse(service.remove(30).join());
+        assertFalse(service.contains(10));
+        assertEquals(Arrays.asList(20), service.snapshot());
+    }
+
+    @Test
+    void testConcurrentWritersAreAllApplied() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 1000;
+                tasks.add(callers.submit(() -> {
+                    List<CompletableFuture<Boolean>> pending = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        pending.add(service.insert(offset + i));
+                    }
+                    pending.forEach(CompletableFuture::join);
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            callers.shutdown();
+        }
+        assertEquals(8000, service.size());
+        List<Integer> snapshot = service.snapshot();
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertEquals(i, snapshot.get(i));
+        }
+    }
+
+    @Test
+    void testWritesFailAfterClose() {
+        CompletableFuture<Boolean> pending = service.insert(1);
+        service.close();
+        assertTrue(pending.join());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> service.insert(2).get());
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        assertTrue(service.contains(1));
+    }
+
+    @Test
+    void testSnapshotIsImmutable() {
+        service.insert(1).join();
+        List<Integer> snapshot = service.snapshot();
+        service.insert(2).join();
+        assertEquals(Arrays.asList(1), snapshot);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(3));
+    }
+
+    @Test
+    void testRequestThrowingErrorFailsOnlyItsFuture() throws Exception {
+        try (BinarySearchTreeService<Key> keys = new BinarySearchTreeService<>()) {
+            assertTrue(keys.insert(new Key(1)).join());
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> keys.insert(new Key(-1)).get());
+            assertTrue(failure.getCause() instanceof AssertionError);
+            assertTrue(keys.insert(new Key(2)).get(5, TimeUnit.SECONDS));
+            assertEquals(2, keys.size());
+        }
+    }
+
+    @Test
+    void testIncreasingKeysStayBalanced() {
+        CompletableFuture<Boolean> last = null;
+        for (int i = 0; i < 200000; i++) {
+            last = service.insert(i);
+        }
+        assertTrue(last.join());
+        assertEquals(200000, service.size());
+        assertTrue(service.contains(199999));
+        assertTrue(service.remove(0).join());
+        assertFalse(service.contains(0));
+    }
+
+    @Test
+    void testFuturesAreCompletedOnCompletionExecutor() throws Exception {
+        LinkedBlockingQueue<Runnable> completions = new LinkedBlockingQueue<>();
+        try (BinarySearchTreeService<Integer> deferred =
+                new BinarySearchTreeService<>(Collections.<Integer>emptyList(), 16, completions::add)) {
+            CompletableFuture<String> stage = deferred.insert(1)
+                    .thenApply(added -> Thread.currentThread().getName());
+            Runnable completion = completions.poll(5, TimeUnit.SECONDS);
+            assertNotNull(completion);
+            assertFalse(stage.isDone());
+            assertTrue(deferred.contains(1));
+            completion.run();
+            assertEquals(Thread.currentThread().getName(), stage.join());
+        }
+    }
+
+    @Test
+    void testThrowingExecutorStillReportsAppliedWrites() throws Exception {
+        try (BinarySearchTreeService<Integer> broken = new BinarySearchTreeService<>(Collections.<Integer>emptyList(), 16,
+                task -> { throw new AssertionError("Executor failure"); })) {
+            assertTrue(broken.insert(1).get(5, TimeUnit.SECONDS));
+            assertTrue(broken.contains(1));
+            assertTrue(broken.remove(1).get(5, TimeUnit.SECONDS));
+            assertFalse(broken.contains(1));
+        }
+    }
+
+    @Test
+    void testSeedElementsAreCopied() {
+        List<Integer> seed = new ArrayList<>(Arrays.asList(5, 3, 5, 9, 1));
+        try (BinarySearchTreeService<Integer> seeded = new BinarySearchTreeService<>(seed, 16)) {
+            assertEquals(Arrays.asList(1, 3, 5, 9), seeded.snapshot());
+            assertTrue(seeded.insert(4).join());
+            assertEquals(Arrays.asList(5, 3, 5, 9, 1), seed);
+        }
+        assertThrows(NullPointerException.class,
+                () -> new BinarySearchTreeService<>(Arrays.asList(1, null), 16));
+    }
+
+    // A key whose comparison fails with an Error for negative values
+    private static final class Key implements Comparable<Key> {
+        final int value;
+
+        Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            if (value < 0 || other.value < 0) throw new AssertionError("Negative key");
+            return Integer.compare(value, other.value);
+        }
+    }
+}
@@ -170,6 +170,235 @@ class BinarySearchTreeTest {
         
         assertEquals(expectedLevelOrder, result);
     }
-    
 
+    @Test
+    void testSelfAdjustingSearchMovesKeyToRoot() {
+        BinarySearchTree<Integer> splay = new BinarySearchTree<>(true);
+        for (int i = 1; i <= 7; i++) {
+            splay.add(i);
+        }
+        assertTrue(splay.isSelfAdjusting());
+        assertEquals(3, splay.search(3));
+        assertEquals(3, splay.preOrderTraversal().get(0));
+        assertTrue(splay.contains(6));
+        assertEquals(6, splay.preOrderTraversal().get(0));
+        assertNull(splay.search(10));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), splay.inOrderTraversal());
+    }
+
+    @Test
+    void testSelfAdjustingRemoveKeepsOrder() {
+        BinarySearchTree<Integer> splay = new BinarySearchTree<>(true);
+        for (int value : new int[] {50, 30, 70, 20, 40, 60, 80}) {
+            splay.add(value);
+        }
+        splay.search(20);
+        assertTrue(splay.remove((Integer) 50));
+        assertTrue(splay.remove((Integer) 20));
+        assertFalse(splay.contains(50));
+        assertEquals(5, splay.size());
+        assertEquals(Arrays.asList(30, 40, 60, 70, 80), splay.inOrderTraversal());
+    }
+
+    @Test
+    void testSelfAdjustingHandlesDeepSequentialTree() {
+        BinarySearchTree<Integer> splay = new BinarySearchTree<>(true);
+        int count = 200000;
+        for (int i = 0; i < count; i++) {
+            splay.add(i);
+        }
+        assertEquals(count - 2, splay.height());
+        assertFalse(splay.isBalanced());
+        assertEquals(0, splay.findMin());
+        assertEquals(count - 1, splay.findMax());
+        List<Integer> inOrder = splay.inOrderTraversal();
+        assertEquals(count, inOrder.size());
+        assertEquals(count - 1, inOrder.get(count - 1));
+        assertEquals(count, splay.preOrderTraversal().size());
+        assertEquals(count, splay.postOrderTraversal().size());
+        assertEquals(count, splay.levelOrderTraversal().size());
+        assertEquals(count, splay.toArray().length);
+        int iterated = 0;
+        for (Integer value : splay) {
+            assertEquals(iterated++, value);
+        }
+        assertEquals(splay.size(), iterated);
+        int[] visited = {0};
+        splay.forEach(value -> visited[0]++);
+        assertEquals(count, visited[0]);
+        assertEquals(count - 2, splay.get(count - 2));
+        assertEquals(count - 3, splay.indexOf(count - 3));
+
+        assertEquals(0, splay.search(0));
+        assertTrue(splay.contains(count - 1));
+        assertTrue(splay.contains(count / 2));
+        assertFalse(splay.contains(count));
+        for (int i = 0; i < count; i += 2) {
+            assertTrue(splay.remove((Integer) i));
+        }
+        assertEquals(count / 2, splay.size());
+        assertFalse(splay.contains(0));
+        assertEquals(1, splay.search(1));
+        assertTrue(splay.retainAll(Arrays.asList(1, 3, 5)));
+        assertEquals(Arrays.asList(1, 3, 5), splay.inOrderTraversal());
+    }
+
+    @Test
+    void testRemoveNodeWithTwoChildren() {
+        for (int value : new int[] {50, 30, 70, 60, 80, 65}) {
+            bst.add(value);
+        }
+        bst.remove((Integer) 50);
+        assertEquals(Arrays.asList(30, 60, 65, 70, 80), bst.inOrderTraversal());
+        assertEquals(30, bst.findMin());
+    }
+
+    @Test
+    void testInOrderVisitorStopsEarly() {
+        for (int value : new int[] {10, 5, 20, 3, 7}) {
+            bst.add(value);
+        }
+        List<Integer> visited = new ArrayList<>();
+        boolean completed = bst.inOrder(value -> {
+            visited.add(value);
+            return value < 7;
+        });
+        assertFalse(completed);
+        assertEquals(Arrays.asList(3, 5, 7), visited);
+    }
+
+    @Test
+    void testVisitorsMatchTraversalLists() {
+        for (int value : new int[] {10, 5, 20, 3, 7, 15}) {
+            bst.add(value);
+        }
+        List<Integer> preOrder = new ArrayList<>();
+        List<Integer> postOrder = new ArrayList<>();
+        List<Integer> levelOrder = new ArrayList<>();
+        assertTrue(bst.preOrder(preOrder::add));
+        assertTrue(bst.postOrder(postOrder::add));
+        assertTrue(bst.levelOrder(levelOrder::add));
+        assertEquals(Arrays.asList(10, 5, 3, 7, 20, 15), preOrder);
+        assertEquals(Arrays.asList(3, 7, 5, 15, 20, 10), postOrder);
+        assertEquals(Arrays.asList(10, 5, 20, 3, 7, 15), levelOrder);
+    }
+
+    @Test
+    void testPreAndPostOrderVisitorsStopEarly() {
+        for (int value : new int[] {50, 30, 70, 20, 40, 60, 80}) {
+            bst.add(value);
+        }
+        assertEquals(Arrays.asList(20, 40, 30, 60, 80, 70, 50), bst.postOrderTraversal());
+        List<Integer> preOrder = new ArrayList<>();
+        assertFalse(bst.preOrder(value -> preOrder.add(value) && value != 40));
+        assertEquals(Arrays.asList(50, 30, 20, 40), preOrder);
+        List<Integer> postOrder = new ArrayList<>();
+        assertFalse(bst.postOrder(value -> postOrder.add(value) && value != 60));
+        assertEquals(Arrays.asList(20, 40, 30, 60), postOrder);
+    }
+
+    @Test
+    void testLevelOrderVisitorStopsEarly() {
+        for (int value : new int[] {10, 5, 20, 3, 7}) {
+            bst.add(value);
+        }
+        List<Integer> visited = new ArrayList<>();
+        assertFalse(bst.levelOrder(value -> visited.add(value) && value != 20));
+        assertEquals(Arrays.asList(10, 5, 20), visited);
+    }
+
+    @Test
+    void testSelfAdjustingVisitorsMayQueryTree() {
+        BinarySearchTree<Integer> splay = new BinarySearchTree<>(true);
+        for (int value : new int[] {50, 30, 70, 20, 40, 60, 80}) {
+            splay.add(value);
+        }
+        List<Integer> visited = new ArrayList<>();
+        splay.forEach(value -> {
+            splay.contains(80);
+            visited.add(value);
+        });
+        assertEquals(Arrays.asList(20, 30, 40, 50, 60, 70, 80), visited);
+
+        List<Integer> levelOrder = splay.levelOrderTraversal();
+        List<Integer> visitedLevels = new ArrayList<>();
+        assertTrue(splay.levelOrder(value -> {
+            splay.search(20);
+            return visitedLevels.add(value);
+        }));
+        assertEquals(levelOrder, visitedLevels);
+
+        List<Integer> visitedInOrder = new ArrayList<>();
+        assertTrue(splay.inOrder(value -> splay.contains(20) && visitedInOrder.add(value)));
+        assertEquals(Arrays.asList(20, 30, 40, 50, 60, 70, 80), visitedInOrder);
+    }
+
+    @Test
+    void testForEach() {
+        bst.add(10);
+        bst.add(5);
+        bst.add(20);
+        int[] sum = {0};
+        bst.forEach(value -> sum[0] += value);
+        assertEquals(35, sum[0]);
+    }
+
+    @Test
+    void testNodePoolRecyclesRemovedNodes() {
+        BinarySearchTree<Integer> pooled = new BinarySearchTree<>(false, 2);
+        for (int value : new int[] {50, 30, 70, 20, 40}) {
+            pooled.add(value);
+        }
+        pooled.remove((Integer) 20);
+        pooled.remove((Integer) 50);
+        pooled.remove((Integer) 70);
+        assertEquals(2, pooled.pooledNodes());
+        pooled.add(10);
+        assertEquals(1, pooled.pooledNodes());
+        assertEquals(Arrays.asList(10, 30, 40), pooled.inOrderTraversal());
+    }
+
+    @Test
+    void testClearHandsNodesToPool() {
+        BinarySearchTree<Integer> pooled = new BinarySearchTree<>(false, 100);
+        for (int value : new int[] {50, 30, 70, 20, 40, 60, 80}) {
+            pooled.add(value);
+        }
+        pooled.remove((Integer) 80);
+        pooled.clear();
+        assertEquals(7, pooled.pooledNodes());
+        assertTrue(pooled.isEmpty());
+        for (int value = 1; value <= 10; value++) {
+            pooled.add(value);
+        }
+        assertEquals(0, pooled.pooledNodes());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), pooled.inOrderTraversal());
+    }
+
+    @Test
+    void testReleasePoolDropsPooledNodes() {
+        BinarySearchTree<Integer> pooled = new BinarySearchTree<>(false, 100);
+        for (int value : new int[] {50, 30, 70}) {
+            pooled.add(value);
+        }
+        pooled.clear();
+        assertEquals(3, pooled.pooledNodes());
+        pooled.releasePool();
+        assertEquals(0, pooled.pooledNodes());
+        pooled.add(1);
+        pooled.remove((Integer) 1);
+        assertEquals(1, pooled.pooledNodes());
+        assertTrue(pooled.isEmpty());
+    }
+
+    @Test
+    void testClearDropsNodesThatDoNotFitInPool() {
+        BinarySearchTree<Integer> pooled = new BinarySearchTree<>(false, 2);
+        pooled.add(2);
+        pooled.add(1);
+        pooled.add(3);
+        pooled.clear();
+        assertEquals(0, pooled.pooledNodes());
+        assertThrows(IllegalArgumentException.class, () -> new BinarySearchTree<Integer>(false, -1));
+    }
 }
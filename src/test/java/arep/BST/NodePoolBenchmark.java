@@ -0,0 +1,56 @@
+package arep.BST;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the bytes allocated per operation on a sliding-window workload with and without node
+ * pooling. Allocation is read from the thread allocation counter of the HotSpot
+ * {@code com.sun.management.ThreadMXBean}. This is a plain measurement harness, not a unit test;
+ * run it after {@code mvn test-compile} with
+ * {@code java -cp target/classes:target/test-classes arep.BST.NodePoolBenchmark}.
+ */
+public class NodePoolBenchmark {
+
+    private static final int WINDOW = 100_000;
+    private static final int OPERATIONS = 3_000_000;
+    private static final int POOL_CAPACITY = 1024;
+    private static final int ROUNDS = 2;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // Keys are boxed up front so only the tree's own allocations are counted
+        List<Integer> order = new ArrayList<>(WINDOW + OPERATIONS);
+        for (int i = 0; i < WINDOW + OPERATIONS; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(1));
+        Integer[] keys = order.toArray(new Integer[0]);
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int capacity : new int[] {0, POOL_CAPACITY}) {
+                BinarySearchTree<Integer> tree = new BinarySearchTree<>(false, capacity);
+                for (int i = 0; i < WINDOW; i++) {
+                    tree.add(keys[i]);
+                }
+
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    tree.remove(keys[i]);
+                    tree.add(keys[WINDOW + i]);
+                }
+                long elapsed = System.nanoTime() - start;
+                long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+                System.out.printf("round %d pool=%-5d %6.2f B/op %8.0f ns/op%n", round, capacity,
+                        (double) allocated / OPERATIONS, (double) elapsed / OPERATIONS);
+            }
+        }
+    }
+}
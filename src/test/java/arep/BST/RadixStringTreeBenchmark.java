@@ -0,0 +1,96 @@
+package arep.BST;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Reports memory per key and lookup latency of {@link RadixStringTree} against a
+ * {@link BinarySearchTree} of Strings on a URL-like corpus. This is a plain timing harness, not a
+ * unit test; run it after {@code mvn test-compile} with
+ * {@code java -Xmx2g -cp target/classes:target/test-classes arep.BST.RadixStringTreeBenchmark}.
+ * Memory is estimated from heap usage after forced collections, so expect some noise.
+ */
+public class RadixStringTreeBenchmark {
+
+    private static final int KEYS = 200_000;
+    private static final int ROUNDS = 5;
+    private static final String[] HOSTS = {
+        "https://www.example.com", "https://api.example.com", "https://cdn.example.org", "https://shop.example.net"
+    };
+
+    public static void main(String[] args) {
+        String[] keys = urlCorpus(new Random(7));
+        System.out.printf("%d keys, average length %.1f chars%n", keys.length,
+                Arrays.stream(keys).mapToInt(String::length).average().orElse(0));
+
+        // Each tree gets its own copy of the characters so both pay for their key storage
+        long before = usedHeap();
+        BinarySearchTree<String> bst = new BinarySearchTree<>();
+        for (String key : keys) {
+            bst.add(new String(key.toCharArray()));
+        }
+        long bstBytes = usedHeap() - before;
+
+        before = usedHeap();
+        RadixStringTree radix = new RadixStringTree();
+        for (String key : keys) {
+            radix.add(key);
+        }
+        long radixBytes = usedHeap() - before;
+
+        System.out.printf("memory/key: BinarySearchTree %.1f B, RadixStringTree %.1f B%n",
+                (double) bstBytes / keys.length, (double) radixBytes / keys.length);
+
+        // Probes are distinct instances in random order, so equal keys are never identical references
+        List<String> order = new ArrayList<>(Arrays.asList(keys));
+        Collections.shuffle(order, new Random(3));
+        String[] probes = new String[order.size()];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = new String(order.get(i).toCharArray());
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            int hits = 0;
+            for (String probe : probes) {
+                if (bst.contains(probe)) hits++;
+            }
+            long bstNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String probe : probes) {
+                if (radix.contains(probe)) hits++;
+            }
+            long radixNanos = System.nanoTime() - start;
+
+            System.out.printf("round %d contains(): BinarySearchTree %.0f ns/op, RadixStringTree %.0f ns/op (%d hits)%n",
+                    round, (double) bstNanos / probes.length, (double) radixNanos / probes.length, hits);
+        }
+    }
+
+    // Unique URLs sharing hosts and path templates, differing in category, item id and query
+    private static String[] urlCorpus(Random random) {
+        Set<String> seen = new HashSet<>();
+        String[] keys = new String[KEYS];
+        int count = 0;
+        while (count < KEYS) {
+            String key = HOSTS[random.nextInt(HOSTS.length)] + "/catalog/category-" + random.nextInt(50)
+                    + "/products/item-" + random.nextInt(1_000_000) + "?ref=campaign-" + random.nextInt(20);
+            if (seen.add(key)) keys[count++] = key;
+        }
+        return keys;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
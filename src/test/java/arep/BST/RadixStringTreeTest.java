@@ -0,0 +1,122 @@
+package arep.BST;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+class RadixStringTreeTest {
+
+    private RadixStringTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new RadixStringTree();
+    }
+
+    @Test
+    void testAddAndContains() {
+        assertTrue(tree.add("https://example.com/a"));
+        assertTrue(tree.add("https://example.com/ab"));
+        assertTrue(tree.add("https://example.org"));
+        assertFalse(tree.add("https://example.com/a"));
+        assertEquals(3, tree.size());
+        assertTrue(tree.contains("https://example.com/ab"));
+        assertFalse(tree.contains("https://example.com/"));
+        assertFalse(tree.contains("https://example.com/abc"));
+    }
+
+    @Test
+    void testNonStringElementsAreNotContained() {
+        tree.add("1");
+        assertFalse(tree.contains(1));
+        assertFalse(tree.containsAll(Arrays.asList("1", 1)));
+        assertTrue(tree.containsAll(Arrays.asList("1")));
+        assertFalse(tree.remove((Object) 1));
+    }
+
+    @Test
+    void testEmptyStringAndPrefixKeys() {
+        tree.add("ab");
+        tree.add("");
+        tree.add("a");
+        assertEquals(Arrays.asList("", "a", "ab"), tree.inOrderTraversal());
+        assertEquals("", tree.get(0));
+        assertEquals("ab", tree.get(2));
+        assertEquals(1, tree.indexOf("a"));
+        assertEquals(2, tree.indexOf("ab"));
+        tree.remove("a");
+        assertEquals(1, tree.indexOf("ab"));
+        assertEquals("ab", tree.get(1));
+        assertEquals("", tree.findMin());
+        assertEquals("ab", tree.findMax());
+    }
+
+    @Test
+    void testRemoveMergesEdges() {
+        tree.add("romane");
+        tree.add("romanus");
+        tree.add("romulus");
+        assertTrue(tree.remove("romanus"));
+        assertFalse(tree.remove("roman"));
+        assertEquals(Arrays.asList("romane", "romulus"), tree.inOrderTraversal());
+        assertTrue(tree.remove("romane"));
+        assertTrue(tree.remove("romulus"));
+        assertTrue(tree.isEmpty());
+        assertThrows(java.util.NoSuchElementException.class, () -> tree.findMin());
+    }
+
+    @Test
+    void testGetAndIndexOf() {
+        tree.add("pear");
+        tree.add("apple");
+        tree.add("peach");
+        assertEquals("apple", tree.get(0));
+        assertEquals("pear", tree.get(2));
+        assertEquals(1, tree.indexOf("peach"));
+        assertEquals(-1, tree.indexOf("plum"));
+        assertEquals(-1, tree.indexOf("pea"));
+        assertEquals(-1, tree.indexOf(1));
+        assertEquals("peach", tree.search("peach"));
+        assertNull(tree.search("pea"));
+    }
+
+    @Test
+    void testMatchesSortedSetOrder() {
+        Random random = new Random(42);
+        TreeSet<String> expected = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            String key = "/api/v" + random.nextInt(3) + "/users/" + random.nextInt(500);
+            assertEquals(expected.add(key), tree.add(key));
+        }
+        for (int i = 0; i < 1000; i++) {
+            String key = "/api/v" + random.nextInt(3) + "/users/" + random.nextInt(500);
+            assertEquals(expected.remove(key), tree.remove(key));
+        }
+        assertEquals(expected.size(), tree.size());
+        assertEquals(new ArrayList<>(expected), tree.inOrderTraversal());
+        assertEquals(expected.first(), tree.findMin());
+        assertEquals(expected.last(), tree.findMax());
+        int index = 0;
+        for (String key : expected) {
+            assertEquals(key, tree.get(index));
+            assertEquals(index, tree.indexOf(key));
+            index++;
+        }
+        assertEquals(-1, tree.indexOf("/api/v0/users/"));
+        assertEquals(-1, tree.indexOf("/api/v9"));
+    }
+
+    @Test
+    void testInOrderVisitorStopsEarly() {
+        tree.addAll(Arrays.asList("c", "a", "b"));
+        List<String> visited = new ArrayList<>();
+        assertFalse(tree.inOrder(value -> visited.add(value) && !value.equals("b")));
+        assertEquals(Arrays.asList("a", "b"), visited);
+    }
+}
@@ -0,0 +1,98 @@
+package arep.BST;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares lookups on a plain and a self-adjusting {@link BinarySearchTree} over sequential, zipfian
+ * and working-set access traces. This is a plain timing harness, not a unit test; run it after
+ * {@code mvn test-compile} with
+ * {@code java -cp target/classes:target/test-classes arep.BST.SplayBenchmark}.
+ */
+public class SplayBenchmark {
+
+    private static final int KEYS = 100_000;
+    private static final int QUERIES = 2_000_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        Integer[] keys = shuffledKeys(KEYS, new Random(1));
+        Random random = new Random(2);
+
+        String[] names = {"sequential", "zipfian", "working-set"};
+        Integer[][] traces = {
+            sequentialTrace(keys.length),
+            zipfianTrace(keys, random),
+            workingSetTrace(keys, random)
+        };
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.println("Round " + round);
+            for (int trace = 0; trace < traces.length; trace++) {
+                for (boolean selfAdjusting : new boolean[] {false, true}) {
+                    BinarySearchTree<Integer> tree = new BinarySearchTree<>(selfAdjusting);
+                    for (Integer key : keys) {
+                        tree.add(key);
+                    }
+                    long start = System.nanoTime();
+                    int hits = 0;
+                    for (Integer key : traces[trace]) {
+                        if (tree.contains(key)) hits++;
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    System.out.printf("  %-12s %-6s %8.1f ns/op (%d hits)%n", names[trace],
+                            selfAdjusting ? "splay" : "plain", (double) elapsed / QUERIES, hits);
+                }
+            }
+        }
+    }
+
+    // Keys 0..n-1 in random order, so the plain tree starts with a random shape
+    private static Integer[] shuffledKeys(int n, Random random) {
+        List<Integer> keys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            keys.add(i);
+        }
+        Collections.shuffle(keys, random);
+        return keys.toArray(new Integer[0]);
+    }
+
+    // Repeated ascending scans over the whole key space
+    private static Integer[] sequentialTrace(int n) {
+        Integer[] trace = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            trace[i] = i % n;
+        }
+        return trace;
+    }
+
+    // Keys drawn with probability proportional to 1 / rank (zipf exponent 1)
+    private static Integer[] zipfianTrace(Integer[] keys, Random random) {
+        double[] cumulative = new double[keys.length];
+        double total = 0;
+        for (int i = 0; i < keys.length; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        Integer[] trace = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            if (rank < 0) rank = -rank - 1;
+            trace[i] = keys[Math.min(rank, keys.length - 1)];
+        }
+        return trace;
+    }
+
+    // Uniform draws from a 64-key hot set that moves every 200k queries
+    private static Integer[] workingSetTrace(Integer[] keys, Random random) {
+        Integer[] trace = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int phase = i / 200_000;
+            trace[i] = keys[(phase * 64 + random.nextInt(64)) % keys.length];
+        }
+        return trace;
+    }
+}